@@ -2,18 +2,22 @@ package org.example;
 
 import org.example.vendor.FruitVendorApplication;
 
+import java.nio.file.Path;
+
 
 public class Main {
 
     /**
      * Application entry point.
      *
-     * @param args command line arguments (not used)
+     * @param args command line arguments; an optional data directory enables persistent storage
      */
     public static void main(String[] args) {
         try {
             // Create and run the fruit vendor application
-            FruitVendorApplication app = new FruitVendorApplication();
+            FruitVendorApplication app = args.length > 0
+                    ? new FruitVendorApplication(Path.of(args[0]))
+                    : new FruitVendorApplication();
             app.run();
         } catch (Exception e) {
             System.err.println("Fatal error occurred while starting the application:");